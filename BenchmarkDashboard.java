@@ -0,0 +1,283 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import javax.swing.*;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Painel de resultados ao vivo: uma série por número de processadores, eixos log-log e visões de
+// tempo, throughput e speedup. A thread do benchmark só enfileira medições (fila lock-free); a EDT
+// drena a fila num Timer, agrega pontos próximos em baldes logarítmicos e desenha só os segmentos
+// novos numa imagem, refazendo o gráfico inteiro apenas quando os eixos mudam de década.
+public class BenchmarkDashboard extends JPanel {
+
+    public enum View {
+        TIME("Execution Time (ns)"),
+        THROUGHPUT("Throughput (elements/s)"),
+        SPEEDUP("Speedup (serial / parallel)");
+
+        private final String label;
+
+        View(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private static final int REFRESH_MS = 33;
+    private static final int BUCKETS_PER_OCTAVE = 16;
+    private static final int MARGIN = 60;
+    private static final Color[] PALETTE = {
+            Color.BLUE, Color.RED, new Color(0, 140, 0), Color.MAGENTA, Color.ORANGE,
+            Color.CYAN.darker(), Color.DARK_GRAY, Color.PINK.darker()
+    };
+
+    private final ConcurrentLinkedQueue<long[]> pending = new ConcurrentLinkedQueue<>();
+    private final TreeMap<Integer, Series> series = new TreeMap<>();
+    private final Chart chart = new Chart();
+    private View view = View.TIME;
+
+    private BenchmarkDashboard() {
+        super(new BorderLayout());
+
+        JComboBox<View> selector = new JComboBox<>(View.values());
+        selector.addActionListener(e -> {
+            view = (View) selector.getSelectedItem();
+            chart.redrawAll();
+        });
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("View:"));
+        controls.add(selector);
+
+        add(controls, BorderLayout.NORTH);
+        add(chart, BorderLayout.CENTER);
+
+        new Timer(REFRESH_MS, e -> drainPending()).start();
+    }
+
+    public static BenchmarkDashboard open(String title) throws InterruptedException, InvocationTargetException {
+        BenchmarkDashboard[] dashboard = new BenchmarkDashboard[1];
+        SwingUtilities.invokeAndWait(() -> {
+            JFrame frame = new JFrame(title);
+            dashboard[0] = new BenchmarkDashboard();
+            frame.add(dashboard[0]);
+            frame.setSize(1000, 650);
+            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            frame.setVisible(true);
+        });
+        return dashboard[0];
+    }
+
+    // Pode ser chamado de qualquer thread; não toca em nenhum estado do Swing
+    public void offer(int size, int processors, long parallelNs, long serialNs) {
+        pending.offer(new long[]{size, processors, parallelNs, serialNs});
+    }
+
+    private void drainPending() {
+        boolean changed = false;
+        long[] measurement;
+        while ((measurement = pending.poll()) != null) {
+            int processors = (int) measurement[1];
+            Series s = series.get(processors);
+            boolean newSeries = s == null;
+            if (newSeries) {
+                s = new Series(processors, PALETTE[series.size() % PALETTE.length]);
+                series.put(processors, s);
+            }
+            double[] previous = s.last(view);
+            boolean appended = s.add(measurement);
+            double[] current = s.last(view);
+            if (appended && !newSeries && chart.covers(current)) {
+                chart.drawSegment(s.color, previous, current);
+            } else {
+                chart.invalidateImage();
+            }
+            changed = true;
+        }
+        if (changed) {
+            chart.repaint();
+        }
+    }
+
+    private static class Series {
+        final int processors;
+        final Color color;
+        // balde logarítmico do tamanho -> {soma dos tamanhos, soma paralelo, soma serial, contagem}
+        final TreeMap<Integer, double[]> buckets = new TreeMap<>();
+
+        Series(int processors, Color color) {
+            this.processors = processors;
+            this.color = color;
+        }
+
+        // Retorna true quando a medição abriu um balde novo no fim da série (dá para desenhar incrementalmente)
+        boolean add(long[] measurement) {
+            int bucket = (int) Math.round(Math.log(Math.max(measurement[0], 1)) / Math.log(2) * BUCKETS_PER_OCTAVE);
+            boolean appended = buckets.isEmpty() || bucket > buckets.lastKey();
+            double[] sums = buckets.computeIfAbsent(bucket, b -> new double[4]);
+            sums[0] += measurement[0];
+            sums[1] += measurement[2];
+            sums[2] += measurement[3];
+            sums[3]++;
+            return appended;
+        }
+
+        double[] last(View view) {
+            return buckets.isEmpty() ? null : point(buckets.lastEntry().getValue(), view);
+        }
+
+        static double[] point(double[] sums, View view) {
+            double size = Math.max(sums[0] / sums[3], 1);
+            double parallelNs = Math.max(sums[1] / sums[3], 1);
+            double serialNs = Math.max(sums[2] / sums[3], 1);
+            switch (view) {
+                case THROUGHPUT:
+                    return new double[]{size, size / (parallelNs * 1e-9)};
+                case SPEEDUP:
+                    return new double[]{size, serialNs / parallelNs};
+                default:
+                    return new double[]{size, parallelNs};
+            }
+        }
+    }
+
+    private class Chart extends JComponent {
+        private BufferedImage image;
+        private double xMinLog, xMaxLog, yMinLog, yMaxLog;
+
+        void invalidateImage() {
+            image = null;
+        }
+
+        void redrawAll() {
+            image = null;
+            repaint();
+        }
+
+        boolean covers(double[] point) {
+            if (image == null) {
+                return false;
+            }
+            double x = Math.log10(point[0]);
+            double y = Math.log10(point[1]);
+            return x >= xMinLog && x <= xMaxLog && y >= yMinLog && y <= yMaxLog;
+        }
+
+        void drawSegment(Color color, double[] from, double[] to) {
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(color);
+            int x2 = toX(to[0]);
+            int y2 = toY(to[1]);
+            if (from != null) {
+                g.drawLine(toX(from[0]), toY(from[1]), x2, y2);
+            }
+            g.fillOval(x2 - 3, y2 - 3, 6, 6);
+            g.dispose();
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (image == null || image.getWidth() != getWidth() || image.getHeight() != getHeight()) {
+                renderAll();
+            }
+            g.drawImage(image, 0, 0, null);
+        }
+
+        private void renderAll() {
+            int width = Math.max(getWidth(), 1);
+            int height = Math.max(getHeight(), 1);
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            computeBounds();
+
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setColor(Color.BLACK);
+
+            g.drawString("Benchmark Results (log-log)", width / 2 - 70, 20);
+            g.drawString("Array Size", width / 2, height - 10);
+            g.drawString(view.toString(), 10, 35);
+
+            g.drawLine(MARGIN, height - MARGIN, width - MARGIN, height - MARGIN);
+            g.drawLine(MARGIN, MARGIN, MARGIN, height - MARGIN);
+
+            for (int decade = (int) xMinLog; decade <= (int) xMaxLog; decade++) {
+                int x = toX(Math.pow(10, decade));
+                g.drawLine(x, height - MARGIN, x, height - MARGIN + 5);
+                g.drawString(decadeLabel(decade), x - 10, height - MARGIN + 20);
+            }
+            for (int decade = (int) yMinLog; decade <= (int) yMaxLog; decade++) {
+                int y = toY(Math.pow(10, decade));
+                g.drawLine(MARGIN - 5, y, MARGIN, y);
+                g.drawString(decadeLabel(decade), MARGIN - 45, y + 5);
+            }
+
+            int legendY = MARGIN;
+            for (Series s : series.values()) {
+                double[] previous = null;
+                g.setColor(s.color);
+                for (double[] sums : s.buckets.values()) {
+                    double[] point = Series.point(sums, view);
+                    int x = toX(point[0]);
+                    int y = toY(point[1]);
+                    if (previous != null) {
+                        g.drawLine(toX(previous[0]), toY(previous[1]), x, y);
+                    }
+                    g.fillOval(x - 3, y - 3, 6, 6);
+                    previous = point;
+                }
+                g.fillRect(width - MARGIN - 90, legendY - 8, 10, 10);
+                g.drawString(s.processors + " processors", width - MARGIN - 75, legendY + 2);
+                legendY += 16;
+            }
+            g.dispose();
+        }
+
+        // Eixos arredondados para décadas inteiras, assim pontos novos raramente forçam um redesenho completo
+        private void computeBounds() {
+            double xMin = Double.MAX_VALUE, xMax = -Double.MAX_VALUE;
+            double yMin = Double.MAX_VALUE, yMax = -Double.MAX_VALUE;
+            for (Series s : series.values()) {
+                for (double[] sums : s.buckets.values()) {
+                    double[] point = Series.point(sums, view);
+                    xMin = Math.min(xMin, Math.log10(point[0]));
+                    xMax = Math.max(xMax, Math.log10(point[0]));
+                    yMin = Math.min(yMin, Math.log10(point[1]));
+                    yMax = Math.max(yMax, Math.log10(point[1]));
+                }
+            }
+            if (xMin > xMax) {
+                xMin = 0;
+                xMax = 1;
+                yMin = 0;
+                yMax = 1;
+            }
+            xMinLog = Math.floor(xMin);
+            xMaxLog = Math.max(Math.ceil(xMax), xMinLog + 1);
+            yMinLog = Math.floor(yMin);
+            yMaxLog = Math.max(Math.ceil(yMax), yMinLog + 1);
+        }
+
+        private int toX(double value) {
+            double fraction = (Math.log10(value) - xMinLog) / (xMaxLog - xMinLog);
+            return MARGIN + (int) Math.round(fraction * (image.getWidth() - 2 * MARGIN));
+        }
+
+        private int toY(double value) {
+            double fraction = (Math.log10(value) - yMinLog) / (yMaxLog - yMinLog);
+            return image.getHeight() - MARGIN - (int) Math.round(fraction * (image.getHeight() - 2 * MARGIN));
+        }
+
+        private String decadeLabel(int decade) {
+            return decade >= 0 && decade <= 3 ? String.valueOf((long) Math.pow(10, decade)) : "1e" + decade;
+        }
+    }
+
+}
@@ -0,0 +1,390 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+// Histórico append-only dos benchmarks: cada execução acrescenta suas amostras em formato longo,
+// com os metadados do ambiente repetidos em cada linha, e "compare" diferencia duas execuções.
+//
+// Uso:
+//   java BenchmarkHistory list [arquivo]
+//   java BenchmarkHistory compare <runA> <runB> [limiarPercentual] [arquivo]
+public class BenchmarkHistory {
+
+    public static final String DEFAULT_FILE = "benchmark_history.csv";
+    public static final int REPETITIONS = 10;
+
+    private static final String HEADER = "RunId,Timestamp,GitCommit,JvmVersion,JvmFlags,CpuModel,Cores,"
+            + "Distribution,Algorithm,ArraySize,Processors,Time(ns)";
+    private static final double SIGNIFICANCE = 0.05;
+
+    private final String runId;
+    private final String timestamp;
+    private final String gitCommit;
+    private final String jvmVersion;
+    private final String jvmFlags;
+    private final String cpuModel;
+    private final int cores;
+    private final String distribution;
+    private final String algorithm;
+    private final List<long[]> samples = new ArrayList<>();
+
+    public BenchmarkHistory(String algorithm, String distribution) {
+        this.runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+        this.timestamp = Instant.now().toString();
+        this.gitCommit = detectGitCommit();
+        this.jvmVersion = System.getProperty("java.vm.name") + " " + System.getProperty("java.runtime.version");
+        this.jvmFlags = String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments());
+        this.cpuModel = detectCpuModel();
+        this.cores = Runtime.getRuntime().availableProcessors();
+        this.distribution = distribution;
+        this.algorithm = algorithm;
+    }
+
+    public void record(int size, int processors, long timeNs) {
+        samples.add(new long[]{size, processors, timeNs});
+    }
+
+    // Repete a ordenação paralela sobre cópias do array para que o compare tenha amostras suficientes
+    public void measure(int[] array, int processors, ObjIntConsumer<int[]> parallelSort) {
+        for (int r = 0; r < REPETITIONS; r++) {
+            int[] copyArray = Arrays.copyOf(array, array.length);
+            long startTime = System.nanoTime();
+            parallelSort.accept(copyArray, processors);
+            long endTime = System.nanoTime();
+            record(array.length, processors, endTime - startTime);
+        }
+    }
+
+    public void append(String fileName) {
+        boolean writeHeader = !new File(fileName).exists() || new File(fileName).length() == 0;
+        try (FileWriter writer = new FileWriter(fileName, true)) {
+            if (writeHeader) {
+                writer.write(HEADER + "\n");
+            }
+            String prefix = String.join(",", quote(runId), quote(timestamp), quote(gitCommit), quote(jvmVersion),
+                    quote(jvmFlags), quote(cpuModel), String.valueOf(cores), quote(distribution), quote(algorithm));
+            for (long[] sample : samples) {
+                writer.write(prefix + "," + sample[0] + "," + sample[1] + "," + sample[2] + "\n");
+            }
+            System.out.println("Run " + runId + " appended to " + fileName);
+        } catch (IOException e) {
+            System.err.println("Error appending results to history: " + e.getMessage());
+        }
+    }
+
+    private static String detectGitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            String commit;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                commit = reader.readLine();
+            }
+            return process.waitFor() == 0 && commit != null ? commit.trim() : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static String detectCpuModel() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/cpuinfo"))) {
+                if (line.startsWith("model name")) {
+                    return line.substring(line.indexOf(':') + 1).trim();
+                }
+            }
+        } catch (IOException e) {
+            // Fora do Linux não existe /proc/cpuinfo
+        }
+        String identifier = System.getenv("PROCESSOR_IDENTIFIER");
+        return identifier != null ? identifier : System.getProperty("os.arch");
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static class Run {
+        final List<String> metadata;
+        final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+        Run(List<String> metadata) {
+            this.metadata = metadata;
+        }
+    }
+
+    private static Map<String, Run> load(String fileName) throws IOException {
+        Map<String, Run> runs = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                List<String> fields = parseLine(line);
+                Run run = runs.computeIfAbsent(fields.get(0), id -> new Run(fields.subList(0, 9)));
+                String key = fields.get(8) + "," + fields.get(9) + "," + fields.get(10);
+                run.samples.computeIfAbsent(key, k -> new ArrayList<>()).add(Long.parseLong(fields.get(11)));
+            }
+        }
+        return runs;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 1 && args[0].equals("list")) {
+            list(args.length > 1 ? args[1] : DEFAULT_FILE);
+        } else if (args.length >= 3 && args[0].equals("compare")) {
+            double threshold = args.length > 3 ? Double.parseDouble(args[3]) : 5.0;
+            compare(args[1], args[2], threshold, args.length > 4 ? args[4] : DEFAULT_FILE);
+        } else {
+            System.err.println("Usage: java BenchmarkHistory list [file]");
+            System.err.println("       java BenchmarkHistory compare <runA> <runB> [thresholdPercent] [file]");
+        }
+    }
+
+    private static void list(String fileName) throws IOException {
+        if (!new File(fileName).exists()) {
+            System.err.println("No benchmark history found at " + fileName);
+            return;
+        }
+        for (Map.Entry<String, Run> entry : load(fileName).entrySet()) {
+            List<String> m = entry.getValue().metadata;
+            System.out.println(entry.getKey() + "  " + m.get(1) + "  commit " + abbreviate(m.get(2)) + "  "
+                    + m.get(3) + "  " + m.get(5) + " (" + m.get(6) + " cores)  " + m.get(7)
+                    + "  " + m.get(8) + "  keys: " + entry.getValue().samples.size());
+        }
+    }
+
+    private static void compare(String runA, String runB, double thresholdPercent, String fileName) throws IOException {
+        if (!new File(fileName).exists()) {
+            System.err.println("No benchmark history found at " + fileName);
+            return;
+        }
+        Map<String, Run> runs = load(fileName);
+        Run a = runs.get(runA);
+        Run b = runs.get(runB);
+        if (a == null || b == null) {
+            System.err.println("Unknown run id: " + (a == null ? runA : runB));
+            return;
+        }
+
+        List<String> onlyA = new ArrayList<>();
+        List<String> onlyB = new ArrayList<>();
+        for (String key : a.samples.keySet()) {
+            if (!b.samples.containsKey(key)) {
+                onlyA.add(key);
+            }
+        }
+        for (String key : b.samples.keySet()) {
+            if (!a.samples.containsKey(key)) {
+                onlyB.add(key);
+            }
+        }
+        if (onlyA.size() == a.samples.size()) {
+            System.err.println("Runs " + runA + " (" + a.metadata.get(8) + ") and " + runB + " (" + b.metadata.get(8)
+                    + ") share no (algorithm, size, processors) key; nothing to compare");
+            return;
+        }
+
+        // O timestamp sempre muda entre execuções, então só os demais campos recebem o marcador "!"
+        System.out.println("  Timestamp: " + a.metadata.get(1) + " -> " + b.metadata.get(1));
+        String[] labels = {"RunId", "Timestamp", "GitCommit", "JvmVersion", "JvmFlags", "CpuModel", "Cores",
+                "Distribution", "Algorithm"};
+        for (int i = 2; i < labels.length; i++) {
+            String marker = a.metadata.get(i).equals(b.metadata.get(i)) ? "  " : "! ";
+            System.out.println(marker + labels[i] + ": " + a.metadata.get(i) + " -> " + b.metadata.get(i));
+        }
+        System.out.println();
+        System.out.printf("%-16s %10s %5s %14s %14s %9s %8s  %s%n",
+                "Algorithm", "ArraySize", "Procs", "MeanA(ns)", "MeanB(ns)", "Change", "p", "Verdict");
+
+        int slowdowns = 0;
+        for (Map.Entry<String, List<Long>> entry : a.samples.entrySet()) {
+            List<Long> samplesB = b.samples.get(entry.getKey());
+            if (samplesB == null) {
+                continue;
+            }
+            double[] x = toArray(entry.getValue());
+            double[] y = toArray(samplesB);
+            double meanA = mean(x);
+            double meanB = mean(y);
+            double change = 100.0 * (meanB - meanA) / meanA;
+            double p = welchPValue(x, y);
+
+            String verdict = "";
+            boolean significant = !Double.isNaN(p) && p < SIGNIFICANCE;
+            if (change > thresholdPercent && significant) {
+                verdict = "SLOWDOWN";
+                slowdowns++;
+            } else if (change < -thresholdPercent && significant) {
+                verdict = "faster";
+            } else if (Math.abs(change) > thresholdPercent) {
+                verdict = "not significant";
+            }
+
+            String[] key = entry.getKey().split(",");
+            System.out.printf("%-16s %10s %5s %14.0f %14.0f %8.1f%% %8.4f  %s%n",
+                    key[0], key[1], key[2], meanA, meanB, change, p, verdict);
+        }
+        printUnmatchedKeys(runA, onlyA);
+        printUnmatchedKeys(runB, onlyB);
+        System.out.println("\n" + slowdowns + " slowdown(s) beyond " + thresholdPercent + "% at p < " + SIGNIFICANCE);
+    }
+
+    private static void printUnmatchedKeys(String runId, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        System.out.println("\nOnly in " + runId + " (not compared):");
+        for (String key : keys) {
+            String[] parts = key.split(",");
+            System.out.println("  " + parts[0] + ", size " + parts[1] + ", " + parts[2] + " processors");
+        }
+    }
+
+    private static String abbreviate(String commit) {
+        return commit.length() > 10 ? commit.substring(0, 10) : commit;
+    }
+
+    private static double[] toArray(List<Long> values) {
+        return values.stream().mapToDouble(Long::doubleValue).toArray();
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(Double.NaN);
+    }
+
+    private static double variance(double[] values, double mean) {
+        double sum = 0;
+        for (double v : values) {
+            sum += (v - mean) * (v - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    // Teste t de Welch bicaudal (variâncias diferentes); NaN quando não há amostras suficientes
+    private static double welchPValue(double[] x, double[] y) {
+        if (x.length < 2 || y.length < 2) {
+            return Double.NaN;
+        }
+        double meanX = mean(x), meanY = mean(y);
+        double sx = variance(x, meanX) / x.length;
+        double sy = variance(y, meanY) / y.length;
+        if (sx + sy == 0) {
+            return meanX == meanY ? 1.0 : 0.0;
+        }
+        double t = (meanY - meanX) / Math.sqrt(sx + sy);
+        double df = (sx + sy) * (sx + sy)
+                / (sx * sx / (x.length - 1) + sy * sy / (y.length - 1));
+        return regularizedIncompleteBeta(df / (df + t * t), df / 2, 0.5);
+    }
+
+    // I_x(a, b) pela fração contínua de Lentz (Numerical Recipes, betai/betacf)
+    private static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + aa * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + aa / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            h *= d * c;
+
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + aa * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + aa / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-12) {
+                break;
+            }
+        }
+        return h;
+    }
+
+    // Aproximação de Lanczos (g = 7, n = 9)
+    private static double logGamma(double x) {
+        double[] coefficients = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+                771.32342877765313, -176.61502916214059, 12.507343278686905,
+                -0.13857109526572012, 9.9843695780195716e-6, 1.5056327351493116e-7};
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.abs(Math.sin(Math.PI * x))) - logGamma(1 - x);
+        }
+        x -= 1;
+        double sum = coefficients[0];
+        for (int i = 1; i < coefficients.length; i++) {
+            sum += coefficients[i] / (x + i);
+        }
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+
+}
@@ -1,6 +1,3 @@
-import java.awt.*;
-import javax.swing.*;
-
 import java.io.FileWriter;
 import java.io.IOException;
 
@@ -8,34 +5,31 @@ import java.util.Arrays;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
 
-public class BubbleSort extends JPanel {
+public class BubbleSort {
 
     private static int[][] results;
     private static int resultIndex = 0;
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         int[] sampleSizes = {4, 8, 16, 32, 64, 128, 256};
         int[] processorCounts = {3, 6, 9};
-        results = new int[sampleSizes.length * processorCounts.length][3];
-
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = new JFrame("Bubble Sort Benchmark");
-            BubbleSort panel = new BubbleSort();
-            frame.add(panel);
-            frame.setSize(1000, 650);
-            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setVisible(true);
-
-            for (int size : sampleSizes) {
-                int[] sampleArray = generateRandomArray(size);
-                for (int processors : processorCounts) {
-                    int time = runSortingTests(sampleArray, processors);
-                    panel.updateResults(size, processors, time);
-                }
+        results = new int[sampleSizes.length * processorCounts.length][5];
+        BenchmarkHistory history = new BenchmarkHistory(SORTER.name(), "uniform int [0, 100)");
+
+        BenchmarkDashboard dashboard = BenchmarkDashboard.open("Bubble Sort Benchmark");
+
+        for (int size : sampleSizes) {
+            int[] sampleArray = generateRandomArray(size);
+            for (int processors : processorCounts) {
+                int[] times = runSortingTests(sampleArray, processors);
+                history.measure(sampleArray, processors, BubbleSort::parallelBubbleSort);
+                updateResults(size, processors, times);
+                dashboard.offer(size, processors, times[0], times[3]);
             }
+        }
 
-            saveResultsToCSV("BubbleSort_resultados.csv");
-        });
+        saveResultsToCSV("BubbleSort_resultados.csv");
+        history.append(BenchmarkHistory.DEFAULT_FILE);
     }
 
     private static int[] generateRandomArray(int size) {
@@ -46,28 +40,36 @@ public class BubbleSort extends JPanel {
         return array;
     }
 
-    private static int runSortingTests(int[] array, int processors) {
+    private static int[] runSortingTests(int[] array, int processors) {
         System.out.println("\nArray size: " + array.length + ", Processors: " + processors);
 
         int[] copyArray = Arrays.copyOf(array, array.length);
         long startTime = System.nanoTime();
         bubbleSort(copyArray);
         long endTime = System.nanoTime();
-        System.out.println("Bubble Sort Serial: " + (endTime - startTime) + " ns");
+        int serialTime = (int)(endTime - startTime);
+        System.out.println("Bubble Sort Serial: " + serialTime + " ns");
 
         copyArray = Arrays.copyOf(array, array.length);
         startTime = System.nanoTime();
         parallelBubbleSort(copyArray, processors);
         endTime = System.nanoTime();
-        System.out.println("Bubble Sort Parallel: " + (endTime - startTime) + " ns\n");
+        int parallelTime = (int)(endTime - startTime);
+        System.out.println("Bubble Sort Parallel: " + parallelTime + " ns");
 
-        return (int)(endTime - startTime);
+        int[] baselines = SortBackend.compareWithBaselines(SORTER, array, processors);
+        System.out.println();
+
+        return new int[]{parallelTime, baselines[0], baselines[1], serialTime};
     }
 
     public static void bubbleSort(int[] array) {
-        int n = array.length;
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
+        bubbleSort(array, 0, array.length);
+    }
+
+    public static void bubbleSort(int[] array, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
+            for (int j = start; j < end - (i - start) - 1; j++) {
                 if (array[j] > array[j + 1]) {
                     int temp = array[j];
                     array[j] = array[j + 1];
@@ -79,38 +81,53 @@ public class BubbleSort extends JPanel {
 
     public static void parallelBubbleSort(int[] array, int processors) {
         ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
+        parallelBubbleSort(array, forkJoinPool);
+        forkJoinPool.close();
+    }
+
+    public static void parallelBubbleSort(int[] array, ForkJoinPool forkJoinPool) {
         boolean sorted = false;
         int n = array.length;
 
         while (!sorted) {
             sorted = true;
 
-            forkJoinPool.invoke(new OddEvenTranspositionSort(array, 1, n - 1));
-            for (int i = 1; i < n - 1; i += 2) {
-                if (array[i] > array[i + 1]) {
-                    int temp = array[i];
-                    array[i] = array[i + 1];
-                    array[i + 1] = temp;
-                    sorted = false;
-                }
+            // A fase já faz as trocas; o laço só termina quando nenhuma das duas fases trocar nada
+            OddEvenTranspositionSort oddPhase = new OddEvenTranspositionSort(array, 1, n - 1);
+            forkJoinPool.invoke(oddPhase);
+            if (oddPhase.swapped) {
+                sorted = false;
             }
 
-            forkJoinPool.invoke(new OddEvenTranspositionSort(array, 0, n - 1));
-            for (int i = 0; i < n - 1; i += 2) {
-                if (array[i] > array[i + 1]) {
-                    int temp = array[i];
-                    array[i] = array[i + 1];
-                    array[i + 1] = temp;
-                    sorted = false;
-                }
+            OddEvenTranspositionSort evenPhase = new OddEvenTranspositionSort(array, 0, n - 1);
+            forkJoinPool.invoke(evenPhase);
+            if (evenPhase.swapped) {
+                sorted = false;
             }
         }
-        forkJoinPool.close();
     }
 
+    public static final Sorter SORTER = new Sorter() {
+        @Override
+        public String name() {
+            return "Bubble Sort";
+        }
+
+        @Override
+        public void sortSerial(int[] array, int from, int to) {
+            bubbleSort(array, from, to);
+        }
+
+        @Override
+        public void sortParallel(int[] array, ForkJoinPool pool) {
+            parallelBubbleSort(array, pool);
+        }
+    };
+
     static class OddEvenTranspositionSort extends RecursiveAction {
         private final int[] array;
         private final int start, end;
+        private boolean swapped;
 
         public OddEvenTranspositionSort(int[] array, int start, int end) {
             this.array = array;
@@ -125,67 +142,21 @@ public class BubbleSort extends JPanel {
                     int temp = array[i];
                     array[i] = array[i + 1];
                     array[i + 1] = temp;
+                    swapped = true;
                 }
             }
         }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-
-        int width = getWidth();
-        int height = getHeight();
-        int margin = 50;
-
-        g.drawString("Benchmark Results", width / 2 - 40, 20);
-        g.drawString("Array Size", width / 2, height - 10);
-        g.drawString("Execution Time (ns)", 10, height / 2);
-
-        g.drawLine(margin, height - margin, width - margin, height - margin); // X axis
-        g.drawLine(margin, margin, margin, height - margin); // Y axis
-
-        int xDivisions = 7;
-        int yDivisions = 8;
-
-        int maxArraySize = Arrays.stream(results).mapToInt(row -> row[0]).max().orElse(1);
-        int maxTime = Arrays.stream(results).mapToInt(row -> row[2]).max().orElse(1);
-
-        for (int i = 0; i <= xDivisions; i++) {
-            int x = margin + i * (width - 2 * margin) / xDivisions;
-            int arraySize = maxArraySize * i / xDivisions;
-            g.drawLine(x, height - margin, x, height - margin + 5);
-            g.drawString(String.valueOf(arraySize), x - 10, height - margin + 20);
-        }
-
-        for (int i = 0; i <= yDivisions; i++) {
-            int y = height - margin - i * (height - 2 * margin) / yDivisions;
-            int time = maxTime * i / yDivisions;
-            g.drawLine(margin - 5, y, margin, y);
-            g.drawString(String.valueOf(time), margin - 35, y + 5);
-        }
-
-        g.setColor(Color.BLUE);
-        for (int i = 1; i < resultIndex; i++) {
-            int x1 = margin + (width - 2 * margin) * results[i - 1][0] / maxArraySize;
-            int y1 = height - margin - (height - 2 * margin) * results[i - 1][2] / maxTime;
-            int x2 = margin + (width - 2 * margin) * results[i][0] / maxArraySize;
-            int y2 = height - margin - (height - 2 * margin) * results[i][2] / maxTime;
-            g.fillOval(x1 - 3, y1 - 3, 6, 6);
-            g.drawLine(x1, y1, x2, y2);  
-        }
-    }
-
-    private void updateResults(int size, int processors, int time) {
-        results[resultIndex++] = new int[]{size, processors, time};
-        repaint();
+    private static void updateResults(int size, int processors, int[] times) {
+        results[resultIndex++] = new int[]{size, processors, times[0], times[1], times[2]};
     }
 
     private static void saveResultsToCSV(String fileName) {
         try (FileWriter writer = new FileWriter(fileName)) {
-            writer.write("ArraySize,Processors,Time(ns)\n");
+            writer.write("ArraySize,Processors,Time(ns),ArraysSort(ns),ArraysParallelSort(ns)\n");
             for (int[] result : results) {
-                writer.write(result[0] + "," + result[1] + "," + result[2] + "\n");
+                writer.write(result[0] + "," + result[1] + "," + result[2] + "," + result[3] + "," + result[4] + "\n");
             }
             System.out.println("Results saved to " + fileName);
         } catch (IOException e) {
@@ -0,0 +1,312 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Sample sort distribuído: o coordenador escolhe os splitters por amostragem, envia cada partição
+// a uma JVM worker via socket local, cada worker ordena com parallelQuickSort/parallelMergeSort
+// e devolve a faixa ordenada (ou grava em um arquivo próprio).
+//
+// Uso:
+//   java DistributedSort [tamanho] [workers] [processadoresPorWorker] [quick|merge] [--output-files]
+//   java DistributedSort worker <porta> <id> <processadores> <quick|merge> [arquivoDeSaida]
+public class DistributedSort {
+
+    private static final int OVERSAMPLING = 64;
+    private static final int IO_CHUNK_INTS = 16 * 1024;
+    private static final int ACCEPT_TIMEOUT_MS = 30_000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("worker")) {
+            runWorker(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                    args[4], args.length > 5 ? args[5] : null);
+            return;
+        }
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int processors = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        String algorithm = args.length > 3 ? args[3] : "quick";
+        boolean outputFiles = args.length > 4 && args[4].equals("--output-files");
+        if (size < 0 || workers < 1 || processors < 1) {
+            System.err.println("Usage: java DistributedSort [size >= 0] [workers >= 1] [processorsPerWorker >= 1] "
+                    + "[quick|merge] [--output-files]");
+            return;
+        }
+
+        int[] array = generateRandomArray(size);
+        runCoordinator(array, workers, processors, algorithm, outputFiles);
+    }
+
+    private static int[] generateRandomArray(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = (int) (Math.random() * Integer.MAX_VALUE);
+        }
+        return array;
+    }
+
+    private static void runCoordinator(int[] array, int workers, int processors, String algorithm,
+                                       boolean outputFiles) throws Exception {
+        System.out.println("\nArray size: " + array.length + ", Workers: " + workers
+                + ", Processors per worker: " + processors + ", Algorithm: " + algorithm);
+
+        List<Process> processes = new ArrayList<>();
+        Socket[] sockets = new Socket[workers];
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        try (ServerSocket serverSocket = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(ACCEPT_TIMEOUT_MS);
+            String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            String classPath = System.getProperty("java.class.path");
+
+            for (int id = 0; id < workers; id++) {
+                List<String> command = new ArrayList<>(Arrays.asList(javaBin, "-cp", classPath,
+                        "DistributedSort", "worker", String.valueOf(serverSocket.getLocalPort()),
+                        String.valueOf(id), String.valueOf(processors), algorithm));
+                if (outputFiles) {
+                    command.add(outputFileName(id));
+                }
+                processes.add(new ProcessBuilder(command).inheritIO().start());
+            }
+
+            for (int i = 0; i < workers; i++) {
+                Socket socket = serverSocket.accept();
+                int id = new DataInputStream(socket.getInputStream()).readInt();
+                sockets[id] = socket;
+            }
+
+            long startTime = System.nanoTime();
+            int[] splitters = sampleSplitters(array, workers);
+            long samplingTime = System.nanoTime() - startTime;
+
+            // O shuffle só termina quando cada worker confirma que recebeu a partição inteira
+            DataInputStream[] inputs = new DataInputStream[workers];
+            startTime = System.nanoTime();
+            int[][] partitions = partition(array, splitters);
+            runOnWorkers(executor, workers, id -> {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(sockets[id].getOutputStream()));
+                out.writeInt(partitions[id].length);
+                writeInts(out, partitions[id], 0, partitions[id].length);
+                out.flush();
+                inputs[id] = new DataInputStream(new BufferedInputStream(sockets[id].getInputStream()));
+                inputs[id].readInt();
+            });
+            long shuffleTime = System.nanoTime() - startTime;
+
+            long[] workerSortTimes = new long[workers];
+            startTime = System.nanoTime();
+            runOnWorkers(executor, workers, id -> {
+                workerSortTimes[id] = inputs[id].readLong();
+            });
+            long localSortTime = System.nanoTime() - startTime;
+
+            int[] offsets = new int[workers];
+            for (int id = 1; id < workers; id++) {
+                offsets[id] = offsets[id - 1] + partitions[id - 1].length;
+            }
+
+            int[] sorted = outputFiles ? null : new int[array.length];
+            startTime = System.nanoTime();
+            runOnWorkers(executor, workers, id -> {
+                int length = inputs[id].readInt();
+                if (sorted != null) {
+                    readInts(inputs[id], sorted, offsets[id], length);
+                }
+            });
+            long collectionTime = System.nanoTime() - startTime;
+
+            for (int id = 0; id < workers; id++) {
+                System.out.println("Worker " + id + ": " + partitions[id].length + " elements, local sort "
+                        + workerSortTimes[id] + " ns");
+            }
+            System.out.println("Sampling: " + samplingTime + " ns");
+            System.out.println("Shuffle: " + shuffleTime + " ns");
+            System.out.println("Local sort: " + localSortTime + " ns");
+            System.out.println("Collection: " + collectionTime + " ns");
+            System.out.println("Total: " + (samplingTime + shuffleTime + localSortTime + collectionTime) + " ns");
+
+            if (sorted != null) {
+                System.out.println("Sorted: " + isSorted(sorted));
+            } else {
+                System.out.println("Sorted ranges written to " + outputFileName(0) + " .. " + outputFileName(workers - 1));
+            }
+        } finally {
+            executor.shutdown();
+            for (Socket socket : sockets) {
+                if (socket != null) {
+                    socket.close();
+                }
+            }
+            for (Process process : processes) {
+                process.waitFor();
+            }
+        }
+    }
+
+    private static int[] sampleSplitters(int[] array, int workers) {
+        if (array.length == 0) {
+            return new int[workers - 1];
+        }
+
+        Random random = new Random();
+        int[] sample = new int[workers * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = array[random.nextInt(array.length)];
+        }
+        Arrays.sort(sample);
+
+        int[] splitters = new int[workers - 1];
+        for (int i = 0; i < splitters.length; i++) {
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        }
+        return splitters;
+    }
+
+    private static int[][] partition(int[] array, int[] splitters) {
+        int[] buckets = new int[array.length];
+        int[] counts = new int[splitters.length + 1];
+        for (int i = 0; i < array.length; i++) {
+            buckets[i] = bucketOf(array[i], splitters);
+            counts[buckets[i]]++;
+        }
+
+        int[][] partitions = new int[counts.length][];
+        for (int b = 0; b < counts.length; b++) {
+            partitions[b] = new int[counts[b]];
+        }
+        int[] fill = new int[counts.length];
+        for (int i = 0; i < array.length; i++) {
+            partitions[buckets[i]][fill[buckets[i]]++] = array[i];
+        }
+        return partitions;
+    }
+
+    // Primeiro bucket cujo splitter é maior que o valor (busca binária)
+    private static int bucketOf(int value, int[] splitters) {
+        int low = 0, high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (splitters[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void runWorker(int port, int id, int processors, String algorithm, String outputFile) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out.writeInt(id);
+            out.flush();
+
+            int[] partition = new int[in.readInt()];
+            readInts(in, partition, 0, partition.length);
+            out.writeInt(partition.length);
+            out.flush();
+
+            long startTime = System.nanoTime();
+            if (algorithm.equals("merge")) {
+                MergeSort.parallelMergeSort(partition, processors);
+            } else {
+                QuickSort.parallelQuickSort(partition, processors);
+            }
+            long sortTime = System.nanoTime() - startTime;
+            out.writeLong(sortTime);
+            out.flush();
+
+            if (outputFile != null) {
+                try (DataOutputStream file = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(outputFile)))) {
+                    writeInts(file, partition, 0, partition.length);
+                }
+                out.writeInt(partition.length);
+            } else {
+                out.writeInt(partition.length);
+                writeInts(out, partition, 0, partition.length);
+            }
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Worker " + id + " failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] array, int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(IO_CHUNK_INTS * Integer.BYTES);
+        for (int done = 0; done < length; ) {
+            int count = Math.min(IO_CHUNK_INTS, length - done);
+            buffer.clear();
+            buffer.asIntBuffer().put(array, offset + done, count);
+            out.write(buffer.array(), 0, count * Integer.BYTES);
+            done += count;
+        }
+    }
+
+    private static void readInts(DataInputStream in, int[] array, int offset, int length) throws IOException {
+        byte[] bytes = new byte[IO_CHUNK_INTS * Integer.BYTES];
+        for (int done = 0; done < length; ) {
+            int count = Math.min(IO_CHUNK_INTS, length - done);
+            in.readFully(bytes, 0, count * Integer.BYTES);
+            ByteBuffer.wrap(bytes, 0, count * Integer.BYTES).asIntBuffer().get(array, offset + done, count);
+            done += count;
+        }
+    }
+
+    private interface WorkerIO {
+        void run(int id) throws IOException;
+    }
+
+    private static void runOnWorkers(ExecutorService executor, int workers, WorkerIO task)
+            throws IOException, InterruptedException {
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int id = 0; id < workers; id++) {
+            final int workerId = id;
+            Callable<Void> callable = () -> {
+                task.run(workerId);
+                return null;
+            };
+            futures.add(executor.submit(callable));
+        }
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IOException("Worker communication failed", e.getCause());
+            }
+        }
+    }
+
+    private static String outputFileName(int id) {
+        return "DistributedSort_worker" + id + ".bin";
+    }
+
+    private static boolean isSorted(int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
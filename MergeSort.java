@@ -1,39 +1,38 @@
-import java.awt.*;
-import javax.swing.*;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-public class MergeSort extends JPanel {
+public class MergeSort {
 
     private static int[][] results;
     private static int resultIndex = 0;
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         int[] sampleSizes = {4, 8, 16, 32, 64, 128, 256};
         int[] processorCounts = {3, 6, 9};
-        results = new int[sampleSizes.length * processorCounts.length][3];
-
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = new JFrame("Merge Sort Benchmark");
-            MergeSort panel = new MergeSort();
-            frame.add(panel);
-            frame.setSize(1000, 650);
-            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setVisible(true);
-
-            for (int size : sampleSizes) {
-                int[] sampleArray = generateRandomArray(size);
-                for (int processors : processorCounts) {
-                    int time = runSortingTests(sampleArray, processors);
-                    panel.updateResults(size, processors, time);
-                }
+        results = new int[sampleSizes.length * processorCounts.length][5];
+        BenchmarkHistory history = new BenchmarkHistory(SORTER.name(), "uniform int [0, 100)");
+
+        BenchmarkDashboard dashboard = BenchmarkDashboard.open("Merge Sort Benchmark");
+
+        for (int size : sampleSizes) {
+            int[] sampleArray = generateRandomArray(size);
+            for (int processors : processorCounts) {
+                int[] times = runSortingTests(sampleArray, processors);
+                history.measure(sampleArray, processors, MergeSort::parallelMergeSort);
+                updateResults(size, processors, times);
+                dashboard.offer(size, processors, times[0], times[3]);
             }
+        }
+
+        System.out.println("Keyed object sort stable: " + checkKeyedSort(processorCounts[0]));
 
-            saveResultsToCSV("MergeSort_results.csv");
-        });
+        saveResultsToCSV("MergeSort_results.csv");
+        history.append(BenchmarkHistory.DEFAULT_FILE);
     }
 
     private static int[] generateRandomArray(int size) {
@@ -44,7 +43,30 @@ public class MergeSort extends JPanel {
         return array;
     }
 
-    private static int runSortingTests(int[] array, int processors) {
+    // Registros {chave, posição original}: depois de ordenar por chave, empates devem manter a posição crescente
+    private static boolean checkKeyedSort(int processors) {
+        int[][] records = new int[10_000][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new int[]{(int) (Math.random() * 100), i};
+        }
+
+        int[][] byIntKey = Arrays.copyOf(records, records.length);
+        parallelSortByIntKey(byIntKey, record -> record[0], processors);
+        int[][] byLongKey = Arrays.copyOf(records, records.length);
+        parallelSortByLongKey(byLongKey, record -> (long) record[0], processors);
+
+        for (int i = 1; i < records.length; i++) {
+            for (int[][] sorted : new int[][][]{byIntKey, byLongKey}) {
+                int[] previous = sorted[i - 1], current = sorted[i];
+                if (previous[0] > current[0] || (previous[0] == current[0] && previous[1] > current[1])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int[] runSortingTests(int[] array, int processors) {
         System.out.println("\nArray size: " + array.length + ", Processors: " + processors);
 
         int[] copyArray = Arrays.copyOf(array, array.length);
@@ -59,9 +81,21 @@ public class MergeSort extends JPanel {
         parallelMergeSort(copyArray, processors);
         endTime = System.nanoTime();
         int parallelTime = (int)(endTime - startTime);
-        System.out.println("Merge Sort Parallel: " + parallelTime + " ns\n");
+        System.out.println("Merge Sort Parallel (buffered): " + parallelTime + " ns, auxiliary memory: "
+                + (4L * array.length) + " bytes");
+
+        copyArray = Arrays.copyOf(array, array.length);
+        startTime = System.nanoTime();
+        parallelMergeSort(copyArray, processors, MergeMode.IN_PLACE);
+        endTime = System.nanoTime();
+        int inPlaceTime = (int)(endTime - startTime);
+        System.out.printf("Merge Sort Parallel (in-place): %d ns, auxiliary memory: 0 bytes (%.2fx buffered time)%n",
+                inPlaceTime, (double) inPlaceTime / Math.max(parallelTime, 1));
 
-        return parallelTime;
+        int[] baselines = SortBackend.compareWithBaselines(SORTER, array, processors);
+        System.out.println();
+
+        return new int[]{parallelTime, baselines[0], baselines[1], serialTime};
     }
 
     public static void mergeSortSerial(int[] array, int left, int right) {
@@ -109,12 +143,293 @@ public class MergeSort extends JPanel {
         }
     }
 
+    // BUFFERED copia as metades para arrays auxiliares (O(n) de memória extra);
+    // IN_PLACE usa SymMerge com rotações de blocos (O(1) de memória extra, mais comparações/movimentos)
+    public enum MergeMode { BUFFERED, IN_PLACE }
+
+    public static void mergeSortSerialInPlace(int[] array, int left, int right) {
+        if (left < right) {
+            int middle = (left + right) / 2;
+            mergeSortSerialInPlace(array, left, middle);
+            mergeSortSerialInPlace(array, middle + 1, right);
+            mergeInPlace(array, left, middle, right);
+        }
+    }
+
+    private static void mergeInPlace(int[] array, int left, int middle, int right) {
+        if (array[middle] <= array[middle + 1]) {
+            return;
+        }
+        symMerge(array, left, middle + 1, right + 1);
+    }
+
+    // SymMerge (Kim & Kutzner): intercala array[a..m) e array[m..b) de forma estável, sem buffer
+    private static void symMerge(int[] array, int a, int m, int b) {
+        if (m - a == 1) {
+            int i = m, j = b;
+            while (i < j) {
+                int h = (i + j) >>> 1;
+                if (array[h] < array[a]) {
+                    i = h + 1;
+                } else {
+                    j = h;
+                }
+            }
+            for (int k = a; k < i - 1; k++) {
+                swap(array, k, k + 1);
+            }
+            return;
+        }
+
+        if (b - m == 1) {
+            int i = a, j = m;
+            while (i < j) {
+                int h = (i + j) >>> 1;
+                if (array[m] >= array[h]) {
+                    i = h + 1;
+                } else {
+                    j = h;
+                }
+            }
+            for (int k = m; k > i; k--) {
+                swap(array, k, k - 1);
+            }
+            return;
+        }
+
+        int mid = (a + b) >>> 1;
+        int start = symMergeSplit(array, a, m, b);
+        int end = mid + m - start;
+        if (start < m && m < end) {
+            rotate(array, start, m, end);
+        }
+        if (a < start && start < mid) {
+            symMerge(array, a, start, mid);
+        }
+        if (mid < end && end < b) {
+            symMerge(array, mid, end, b);
+        }
+    }
+
+    private static int symMergeSplit(int[] array, int a, int m, int b) {
+        int mid = (a + b) >>> 1;
+        int n = mid + m;
+        int start, r;
+        if (m > mid) {
+            start = n - b;
+            r = mid;
+        } else {
+            start = a;
+            r = m;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int c = (start + r) >>> 1;
+            if (array[p - c] >= array[c]) {
+                start = c + 1;
+            } else {
+                r = c;
+            }
+        }
+        return start;
+    }
+
+    // Rotaciona array[a..m) com array[m..b) usando três reversões
+    private static void rotate(int[] array, int a, int m, int b) {
+        reverse(array, a, m - 1);
+        reverse(array, m, b - 1);
+        reverse(array, a, b - 1);
+    }
+
+    private static void reverse(int[] array, int i, int j) {
+        while (i < j) {
+            swap(array, i++, j--);
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
     public static void parallelMergeSort(int[] array, int processors) {
+        parallelMergeSort(array, processors, MergeMode.BUFFERED);
+    }
+
+    public static void parallelMergeSort(int[] array, int processors, MergeMode mode) {
         ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
-        forkJoinPool.invoke(new MergeSortTask(array, 0, array.length - 1));
+        parallelMergeSort(array, forkJoinPool, mode);
         forkJoinPool.close();
     }
 
+    public static void parallelMergeSort(int[] array, ForkJoinPool forkJoinPool, MergeMode mode) {
+        if (mode == MergeMode.IN_PLACE) {
+            forkJoinPool.invoke(new InPlaceMergeSortTask(array, 0, array.length - 1));
+        } else {
+            forkJoinPool.invoke(new MergeSortTask(array, 0, array.length - 1));
+        }
+    }
+
+    public static final Sorter SORTER = new Sorter() {
+        @Override
+        public String name() {
+            return "Merge Sort";
+        }
+
+        @Override
+        public void sortSerial(int[] array, int from, int to) {
+            mergeSortSerial(array, from, to - 1);
+        }
+
+        @Override
+        public void sortParallel(int[] array, ForkJoinPool pool) {
+            parallelMergeSort(array, pool, MergeMode.BUFFERED);
+        }
+    };
+
+    // Ordenação estável de objetos por chave: as chaves são extraídas uma única vez para um int[]/long[]
+    // contíguo e ordenadas junto com um array de índices; os objetos só são permutados no final
+    public static <T> void parallelSortByIntKey(T[] array, ToIntFunction<? super T> keyExtractor, int processors) {
+        int[] keys = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+        sortByExtractedKeys(array, keys, processors);
+    }
+
+    public static <T> void parallelSortByLongKey(T[] array, ToLongFunction<? super T> keyExtractor, int processors) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        sortByExtractedKeys(array, keys, processors);
+    }
+
+    private static <T> void sortByExtractedKeys(T[] array, int[] keys, int processors) {
+        int n = array.length;
+        int[] index = identityIndex(n);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
+        forkJoinPool.invoke(new KeyedIntMergeSortTask(keys, index, new int[n], new int[n], 0, n - 1));
+        forkJoinPool.close();
+
+        permuteByIndex(array, index);
+    }
+
+    private static <T> void sortByExtractedKeys(T[] array, long[] keys, int processors) {
+        int n = array.length;
+        int[] index = identityIndex(n);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
+        forkJoinPool.invoke(new KeyedMergeSortTask(keys, index, new long[n], new int[n], 0, n - 1));
+        forkJoinPool.close();
+
+        permuteByIndex(array, index);
+    }
+
+    private static int[] identityIndex(int n) {
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        return index;
+    }
+
+    private static <T> void permuteByIndex(T[] array, int[] index) {
+        T[] original = Arrays.copyOf(array, array.length);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = original[index[i]];
+        }
+    }
+
+    private static void mergeSortSerialKeyed(long[] keys, int[] index, long[] keyBuffer, int[] indexBuffer,
+                                             int left, int right) {
+        if (left < right) {
+            int middle = (left + right) / 2;
+            mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, left, middle);
+            mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, middle + 1, right);
+            mergeKeyed(keys, index, keyBuffer, indexBuffer, left, middle, right);
+        }
+    }
+
+    // Copia só a metade esquerda para o buffer; em caso de empate a esquerda vence, mantendo a estabilidade
+    private static void mergeKeyed(long[] keys, int[] index, long[] keyBuffer, int[] indexBuffer,
+                                   int left, int middle, int right) {
+        if (keys[middle] <= keys[middle + 1]) {
+            return;
+        }
+
+        int n1 = middle - left + 1;
+        System.arraycopy(keys, left, keyBuffer, left, n1);
+        System.arraycopy(index, left, indexBuffer, left, n1);
+
+        int i = left, j = middle + 1;
+        int k = left;
+        while (i <= middle && j <= right) {
+            if (keyBuffer[i] <= keys[j]) {
+                keys[k] = keyBuffer[i];
+                index[k] = indexBuffer[i];
+                i++;
+            } else {
+                keys[k] = keys[j];
+                index[k] = index[j];
+                j++;
+            }
+            k++;
+        }
+
+        while (i <= middle) {
+            keys[k] = keyBuffer[i];
+            index[k] = indexBuffer[i];
+            i++;
+            k++;
+        }
+    }
+
+    private static void mergeSortSerialKeyed(int[] keys, int[] index, int[] keyBuffer, int[] indexBuffer,
+                                             int left, int right) {
+        if (left < right) {
+            int middle = (left + right) / 2;
+            mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, left, middle);
+            mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, middle + 1, right);
+            mergeKeyed(keys, index, keyBuffer, indexBuffer, left, middle, right);
+        }
+    }
+
+    private static void mergeKeyed(int[] keys, int[] index, int[] keyBuffer, int[] indexBuffer,
+                                   int left, int middle, int right) {
+        if (keys[middle] <= keys[middle + 1]) {
+            return;
+        }
+
+        int n1 = middle - left + 1;
+        System.arraycopy(keys, left, keyBuffer, left, n1);
+        System.arraycopy(index, left, indexBuffer, left, n1);
+
+        int i = left, j = middle + 1;
+        int k = left;
+        while (i <= middle && j <= right) {
+            if (keyBuffer[i] <= keys[j]) {
+                keys[k] = keyBuffer[i];
+                index[k] = indexBuffer[i];
+                i++;
+            } else {
+                keys[k] = keys[j];
+                index[k] = index[j];
+                j++;
+            }
+            k++;
+        }
+
+        while (i <= middle) {
+            keys[k] = keyBuffer[i];
+            index[k] = indexBuffer[i];
+            i++;
+            k++;
+        }
+    }
+
     static class MergeSortTask extends RecursiveAction {
         private final int[] array;
         private final int left, right;
@@ -140,57 +455,139 @@ public class MergeSort extends JPanel {
         }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+    static class KeyedMergeSortTask extends RecursiveAction {
+        private final long[] keys;
+        private final int[] index;
+        private final long[] keyBuffer;
+        private final int[] indexBuffer;
+        private final int left, right;
+        private static final int THRESHOLD = 16;
 
-        int width = getWidth();
-        int height = getHeight();
-        int margin = 50;
+        public KeyedMergeSortTask(long[] keys, int[] index, long[] keyBuffer, int[] indexBuffer, int left, int right) {
+            this.keys = keys;
+            this.index = index;
+            this.keyBuffer = keyBuffer;
+            this.indexBuffer = indexBuffer;
+            this.left = left;
+            this.right = right;
+        }
 
-        g.drawString("Benchmark Results", width / 2 - 40, 20);
-        g.drawString("Array Size", width / 2, height - 10);
-        g.drawString("Execution Time (ns)", 10, height / 2);
+        @Override
+        protected void compute() {
+            if (right - left < THRESHOLD) {
+                mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, left, right);
+            } else {
+                int middle = (left + right) / 2;
+                KeyedMergeSortTask leftTask = new KeyedMergeSortTask(keys, index, keyBuffer, indexBuffer, left, middle);
+                KeyedMergeSortTask rightTask = new KeyedMergeSortTask(keys, index, keyBuffer, indexBuffer, middle + 1, right);
+                invokeAll(leftTask, rightTask);
+                mergeKeyed(keys, index, keyBuffer, indexBuffer, left, middle, right);
+            }
+        }
+    }
+
+    static class KeyedIntMergeSortTask extends RecursiveAction {
+        private final int[] keys;
+        private final int[] index;
+        private final int[] keyBuffer;
+        private final int[] indexBuffer;
+        private final int left, right;
+        private static final int THRESHOLD = 16;
 
-        g.drawLine(margin, height - margin, width - margin, height - margin);
-        g.drawLine(margin, margin, margin, height - margin); 
+        public KeyedIntMergeSortTask(int[] keys, int[] index, int[] keyBuffer, int[] indexBuffer, int left, int right) {
+            this.keys = keys;
+            this.index = index;
+            this.keyBuffer = keyBuffer;
+            this.indexBuffer = indexBuffer;
+            this.left = left;
+            this.right = right;
+        }
 
-        int xDivisions = 7;
-        int yDivisions = 8;
+        @Override
+        protected void compute() {
+            if (right - left < THRESHOLD) {
+                mergeSortSerialKeyed(keys, index, keyBuffer, indexBuffer, left, right);
+            } else {
+                int middle = (left + right) / 2;
+                KeyedIntMergeSortTask leftTask = new KeyedIntMergeSortTask(keys, index, keyBuffer, indexBuffer, left, middle);
+                KeyedIntMergeSortTask rightTask = new KeyedIntMergeSortTask(keys, index, keyBuffer, indexBuffer, middle + 1, right);
+                invokeAll(leftTask, rightTask);
+                mergeKeyed(keys, index, keyBuffer, indexBuffer, left, middle, right);
+            }
+        }
+    }
 
-        int maxArraySize = Arrays.stream(results).mapToInt(row -> row[0]).max().orElse(1);
-        int maxTime = Arrays.stream(results).mapToInt(row -> row[2]).max().orElse(1);
+    static class InPlaceMergeSortTask extends RecursiveAction {
+        private final int[] array;
+        private final int left, right;
+        private static final int THRESHOLD = 16;
 
-        for (int i = 0; i <= xDivisions; i++) {
-            int x = margin + i * (width - 2 * margin) / xDivisions;
-            int arraySize = maxArraySize * i / xDivisions;
-            g.drawLine(x, height - margin, x, height - margin + 5);
-            g.drawString(String.valueOf(arraySize), x - 10, height - margin + 20);
+        public InPlaceMergeSortTask(int[] array, int left, int right) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
         }
 
-        for (int i = 0; i <= yDivisions; i++) {
-            int y = height - margin - i * (height - 2 * margin) / yDivisions;
-            int time = maxTime * i / yDivisions;
-            g.drawLine(margin - 5, y, margin, y);
-            g.drawString(String.valueOf(time), margin - 35, y + 5);
+        @Override
+        protected void compute() {
+            if (right - left < THRESHOLD) {
+                mergeSortSerialInPlace(array, left, right);
+            } else {
+                int middle = (left + right) / 2;
+                InPlaceMergeSortTask leftTask = new InPlaceMergeSortTask(array, left, middle);
+                InPlaceMergeSortTask rightTask = new InPlaceMergeSortTask(array, middle + 1, right);
+                invokeAll(leftTask, rightTask);
+                if (array[middle] > array[middle + 1]) {
+                    new SymMergeTask(array, left, middle + 1, right + 1).invoke();
+                }
+            }
         }
+    }
 
-        g.setColor(Color.BLUE);
-        for (int i = 1; i < resultIndex; i++) {
-            int x1 = margin + (width - 2 * margin) * results[i - 1][0] / maxArraySize;
-            int y1 = height - margin - (height - 2 * margin) * results[i - 1][2] / maxTime;
-            int x2 = margin + (width - 2 * margin) * results[i][0] / maxArraySize;
-            int y2 = height - margin - (height - 2 * margin) * results[i][2] / maxTime;
-            g.fillOval(x1 - 3, y1 - 3, 6, 6);
-            g.drawLine(x1, y1, x2, y2);  
+    // Após a rotação, as duas sub-intercalações do SymMerge são independentes e podem ser paralelizadas
+    static class SymMergeTask extends RecursiveAction {
+        private final int[] array;
+        private final int a, m, b;
+        private static final int THRESHOLD = 8192;
+
+        public SymMergeTask(int[] array, int a, int m, int b) {
+            this.array = array;
+            this.a = a;
+            this.m = m;
+            this.b = b;
+        }
+
+        @Override
+        protected void compute() {
+            if (b - a < THRESHOLD) {
+                symMerge(array, a, m, b);
+                return;
+            }
+
+            int mid = (a + b) >>> 1;
+            int start = symMergeSplit(array, a, m, b);
+            int end = mid + m - start;
+            if (start < m && m < end) {
+                rotate(array, start, m, end);
+            }
+
+            boolean hasLeft = a < start && start < mid;
+            boolean hasRight = mid < end && end < b;
+            if (hasLeft && hasRight) {
+                invokeAll(new SymMergeTask(array, a, start, mid), new SymMergeTask(array, mid, end, b));
+            } else if (hasLeft) {
+                new SymMergeTask(array, a, start, mid).compute();
+            } else if (hasRight) {
+                new SymMergeTask(array, mid, end, b).compute();
+            }
         }
     }
 
     private static void saveResultsToCSV(String fileName) {
         try (FileWriter writer = new FileWriter(fileName)) {
-            writer.write("ArraySize,Processors,Time(ns)\n");
+            writer.write("ArraySize,Processors,Time(ns),ArraysSort(ns),ArraysParallelSort(ns)\n");
             for (int[] result : results) {
-                writer.write(result[0] + "," + result[1] + "," + result[2] + "\n");
+                writer.write(result[0] + "," + result[1] + "," + result[2] + "," + result[3] + "," + result[4] + "\n");
             }
             System.out.println("Results saved to " + fileName);
         } catch (IOException e) {
@@ -198,9 +595,8 @@ public class MergeSort extends JPanel {
         }
     }
 
-    private void updateResults(int size, int processors, int time) {
-        results[resultIndex++] = new int[]{size, processors, time};
-        repaint();
+    private static void updateResults(int size, int processors, int[] times) {
+        results[resultIndex++] = new int[]{size, processors, times[0], times[1], times[2]};
     }
 
 }
@@ -1,6 +1,3 @@
-import java.awt.*;
-import javax.swing.*;
-
 import java.io.FileWriter;
 import java.io.IOException;
 
@@ -8,34 +5,31 @@ import java.util.Arrays;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
 
-public class SelectionSort extends JPanel {
+public class SelectionSort {
 
     private static int[][] results;
     private static int resultIndex = 0;
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         int[] sampleSizes = {4, 8, 16, 32, 64, 128, 256};
         int[] processorCounts = {3, 6, 9};
-        results = new int[sampleSizes.length * processorCounts.length][3];
-
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = new JFrame("Selection Sort Benchmark");
-            SelectionSort panel = new SelectionSort();
-            frame.add(panel);
-            frame.setSize(1000, 650);
-            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setVisible(true);
-
-            for (int size : sampleSizes) {
-                int[] sampleArray = generateRandomArray(size);
-                for (int processors : processorCounts) {
-                    int time = runSortingTests(sampleArray, processors);
-                    panel.updateResults(size, processors, time);
-                }
+        results = new int[sampleSizes.length * processorCounts.length][5];
+        BenchmarkHistory history = new BenchmarkHistory(SORTER.name(), "uniform int [0, 100)");
+
+        BenchmarkDashboard dashboard = BenchmarkDashboard.open("Selection Sort Benchmark");
+
+        for (int size : sampleSizes) {
+            int[] sampleArray = generateRandomArray(size);
+            for (int processors : processorCounts) {
+                int[] times = runSortingTests(sampleArray, processors);
+                history.measure(sampleArray, processors, SelectionSort::parallelSelectionSort);
+                updateResults(size, processors, times);
+                dashboard.offer(size, processors, times[0], times[3]);
             }
+        }
 
-            saveResultsToCSV("SelectionSort_resultados.csv");
-        });
+        saveResultsToCSV("SelectionSort_resultados.csv");
+        history.append(BenchmarkHistory.DEFAULT_FILE);
     }
 
     private static int[] generateRandomArray(int size) {
@@ -46,29 +40,37 @@ public class SelectionSort extends JPanel {
         return array;
     }
 
-    private static int runSortingTests(int[] array, int processors) {
+    private static int[] runSortingTests(int[] array, int processors) {
         System.out.println("\nArray size: " + array.length + ", Processors: " + processors);
 
         int[] copyArray = Arrays.copyOf(array, array.length);
         long startTime = System.nanoTime();
         selectionSortSerial(copyArray);
         long endTime = System.nanoTime();
-        System.out.println("Selection Sort Serial: " + (endTime - startTime) + " ns");
+        int serialTime = (int)(endTime - startTime);
+        System.out.println("Selection Sort Serial: " + serialTime + " ns");
 
         copyArray = Arrays.copyOf(array, array.length);
         startTime = System.nanoTime();
         parallelSelectionSort(copyArray, processors);
         endTime = System.nanoTime();
-        System.out.println("Selection Sort Parallel: " + (endTime - startTime) + " ns\n");
+        int parallelTime = (int)(endTime - startTime);
+        System.out.println("Selection Sort Parallel: " + parallelTime + " ns");
+
+        int[] baselines = SortBackend.compareWithBaselines(SORTER, array, processors);
+        System.out.println();
 
-        return (int)(endTime - startTime);
+        return new int[]{parallelTime, baselines[0], baselines[1], serialTime};
     }
 
     public static void selectionSortSerial(int[] array) {
-        int n = array.length;
-        for (int i = 0; i < n - 1; i++) {
+        selectionSortSerial(array, 0, array.length);
+    }
+
+    public static void selectionSortSerial(int[] array, int start, int end) {
+        for (int i = start; i < end - 1; i++) {
             int minIndex = i;
-            for (int j = i + 1; j < n; j++) {
+            for (int j = i + 1; j < end; j++) {
                 if (array[j] < array[minIndex]) {
                     minIndex = j;
                 }
@@ -81,10 +83,31 @@ public class SelectionSort extends JPanel {
 
     public static void parallelSelectionSort(int[] array, int processors) {
         ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
-        forkJoinPool.invoke(new SelectionSortTask(array, 0, array.length));
+        parallelSelectionSort(array, forkJoinPool);
         forkJoinPool.close();
     }
 
+    public static void parallelSelectionSort(int[] array, ForkJoinPool forkJoinPool) {
+        forkJoinPool.invoke(new SelectionSortTask(array, 0, array.length));
+    }
+
+    public static final Sorter SORTER = new Sorter() {
+        @Override
+        public String name() {
+            return "Selection Sort";
+        }
+
+        @Override
+        public void sortSerial(int[] array, int from, int to) {
+            selectionSortSerial(array, from, to);
+        }
+
+        @Override
+        public void sortParallel(int[] array, ForkJoinPool pool) {
+            parallelSelectionSort(array, pool);
+        }
+    };
+
     static class SelectionSortTask extends RecursiveAction {
         private final int[] array;
         private final int start, end;
@@ -99,7 +122,7 @@ public class SelectionSort extends JPanel {
         @Override
         protected void compute() {
             if (end - start <= THRESHOLD) {
-                selectionSortSerial(Arrays.copyOfRange(array, start, end));
+                selectionSortSerial(array, start, end);
             } else {
                 int mid = (start + end) / 2;
                 SelectionSortTask leftTask = new SelectionSortTask(array, start, mid);
@@ -132,57 +155,11 @@ public class SelectionSort extends JPanel {
         }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-
-        int width = getWidth();
-        int height = getHeight();
-        int margin = 50;
-
-        g.drawString("Benchmark Results", width / 2 - 40, 20);
-        g.drawString("Array Size", width / 2, height - 10);
-        g.drawString("Execution Time (ns)", 10, height / 2);
-
-        g.drawLine(margin, height - margin, width - margin, height - margin);
-        g.drawLine(margin, margin, margin, height - margin); 
-
-        int xDivisions = 7;
-        int yDivisions = 8;
-
-        int maxArraySize = Arrays.stream(results).mapToInt(row -> row[0]).max().orElse(1);
-        int maxTime = Arrays.stream(results).mapToInt(row -> row[2]).max().orElse(1);
-
-        for (int i = 0; i <= xDivisions; i++) {
-            int x = margin + i * (width - 2 * margin) / xDivisions;
-            int arraySize = maxArraySize * i / xDivisions;
-            g.drawLine(x, height - margin, x, height - margin + 5);
-            g.drawString(String.valueOf(arraySize), x - 10, height - margin + 20);
-        }
-
-        for (int i = 0; i <= yDivisions; i++) {
-            int y = height - margin - i * (height - 2 * margin) / yDivisions;
-            int time = maxTime * i / yDivisions;
-            g.drawLine(margin - 5, y, margin, y);
-            g.drawString(String.valueOf(time), margin - 35, y + 5);
-        }
-
-        g.setColor(Color.BLUE);
-        for (int i = 1; i < resultIndex; i++) {
-            int x1 = margin + (width - 2 * margin) * results[i - 1][0] / maxArraySize;
-            int y1 = height - margin - (height - 2 * margin) * results[i - 1][2] / maxTime;
-            int x2 = margin + (width - 2 * margin) * results[i][0] / maxArraySize;
-            int y2 = height - margin - (height - 2 * margin) * results[i][2] / maxTime;
-            g.fillOval(x1 - 3, y1 - 3, 6, 6);
-            g.drawLine(x1, y1, x2, y2); 
-        }
-    }
-
     private static void saveResultsToCSV(String fileName) {
         try (FileWriter writer = new FileWriter(fileName)) {
-            writer.write("ArraySize,Processors,Time(ns)\n");
+            writer.write("ArraySize,Processors,Time(ns),ArraysSort(ns),ArraysParallelSort(ns)\n");
             for (int[] result : results) {
-                writer.write(result[0] + "," + result[1] + "," + result[2] + "\n");
+                writer.write(result[0] + "," + result[1] + "," + result[2] + "," + result[3] + "," + result[4] + "\n");
             }
             System.out.println("Results saved to " + fileName);
         } catch (IOException e) {
@@ -190,9 +167,8 @@ public class SelectionSort extends JPanel {
         }
     }
 
-    private void updateResults(int size, int processors, int time) {
-        results[resultIndex++] = new int[]{size, processors, time};
-        repaint();
+    private static void updateResults(int size, int processors, int[] times) {
+        results[resultIndex++] = new int[]{size, processors, times[0], times[1], times[2]};
     }
 
 
@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public enum SortBackend {
+
+    DEDICATED_FORK_JOIN_POOL("Dedicated ForkJoinPool") {
+        @Override
+        void sort(Sorter sorter, int[] array, int processors) {
+            ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
+            sorter.sortParallel(array, forkJoinPool);
+            forkJoinPool.close();
+        }
+    },
+
+    // O common pool tem paralelismo fixo pela JVM; processors é ignorado
+    COMMON_POOL("Common ForkJoinPool") {
+        @Override
+        void sort(Sorter sorter, int[] array, int processors) {
+            sorter.sortParallel(array, ForkJoinPool.commonPool());
+        }
+    },
+
+    THREAD_POOL_EXECUTOR("ThreadPoolExecutor (static chunks)") {
+        @Override
+        void sort(Sorter sorter, int[] array, int processors) {
+            ExecutorService executor = Executors.newFixedThreadPool(processors);
+            try {
+                sortInChunks(sorter, array, processors, (count, task) -> {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int i = 0; i < count; i++) {
+                        final int chunk = i;
+                        futures.add(executor.submit(() -> task.accept(chunk)));
+                    }
+                    for (Future<?> future : futures) {
+                        try {
+                            future.get();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        } catch (ExecutionException e) {
+                            throw new IllegalStateException(e.getCause());
+                        }
+                    }
+                });
+            } finally {
+                executor.shutdown();
+            }
+        }
+    },
+
+    // O parallel stream roda dentro de um ForkJoinPool próprio, então usa no máximo processors threads
+    PARALLEL_STREAM("Parallel IntStream") {
+        @Override
+        void sort(Sorter sorter, int[] array, int processors) {
+            runInPool(processors, () -> sortInChunks(sorter, array, processors,
+                    (count, task) -> IntStream.range(0, count).parallel().forEach(task)));
+        }
+    };
+
+    private final String label;
+
+    SortBackend(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    abstract void sort(Sorter sorter, int[] array, int processors);
+
+    // Tarefas ForkJoin disparadas de dentro de um worker (parallel streams, Arrays.parallelSort)
+    // são executadas no pool desse worker e não no common pool
+    private static void runInPool(int processors, Runnable action) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(processors);
+        forkJoinPool.submit(action).join();
+        forkJoinPool.close();
+    }
+
+    private interface BatchRunner {
+        void runAll(int count, IntConsumer task);
+    }
+
+    // Particionamento estático: um bloco contíguo por processador, ordenado serialmente,
+    // seguido de rodadas de intercalação par a par (cada rodada também em paralelo)
+    private static void sortInChunks(Sorter sorter, int[] array, int processors, BatchRunner runner) {
+        int n = array.length;
+        int chunks = Math.max(1, Math.min(processors, n));
+        int[] bounds = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            bounds[i] = (int) ((long) n * i / chunks);
+        }
+
+        runner.runAll(chunks, c -> sorter.sortSerial(array, bounds[c], bounds[c + 1]));
+
+        int[] buffer = new int[n];
+        for (int width = 1; width < chunks; width *= 2) {
+            final int step = width;
+            int pairs = (chunks - step + 2 * step - 1) / (2 * step);
+            runner.runAll(pairs, p -> {
+                int first = 2 * step * p;
+                int from = bounds[first];
+                int mid = bounds[first + step];
+                int to = bounds[Math.min(first + 2 * step, chunks)];
+                mergeRuns(array, buffer, from, mid, to);
+            });
+        }
+    }
+
+    private static void mergeRuns(int[] array, int[] buffer, int from, int mid, int to) {
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            buffer[k++] = array[i] <= array[j] ? array[i++] : array[j++];
+        }
+        while (i < mid) {
+            buffer[k++] = array[i++];
+        }
+        while (j < to) {
+            buffer[k++] = array[j++];
+        }
+        System.arraycopy(buffer, from, array, from, to - from);
+    }
+
+    // Executa os backends restantes e as referências do JDK sobre cópias do mesmo array.
+    // Retorna {Arrays.sort, Arrays.parallelSort} em ns para entrar na tabela de resultados.
+    public static int[] compareWithBaselines(Sorter sorter, int[] array, int processors) {
+        for (SortBackend backend : values()) {
+            if (backend == DEDICATED_FORK_JOIN_POOL) {
+                continue;
+            }
+            int[] copyArray = Arrays.copyOf(array, array.length);
+            long startTime = System.nanoTime();
+            sorter.sort(copyArray, backend, processors);
+            long endTime = System.nanoTime();
+            String threads = backend == COMMON_POOL
+                    ? " (" + ForkJoinPool.getCommonPoolParallelism() + " threads)" : "";
+            System.out.println(sorter.name() + " [" + backend.label() + "]" + threads + ": "
+                    + (endTime - startTime) + " ns");
+        }
+
+        int[] copyArray = Arrays.copyOf(array, array.length);
+        long startTime = System.nanoTime();
+        Arrays.sort(copyArray);
+        long endTime = System.nanoTime();
+        int arraysSortTime = (int) (endTime - startTime);
+        System.out.println("Arrays.sort: " + arraysSortTime + " ns");
+
+        copyArray = Arrays.copyOf(array, array.length);
+        startTime = System.nanoTime();
+        final int[] parallelCopy = copyArray;
+        runInPool(processors, () -> Arrays.parallelSort(parallelCopy));
+        endTime = System.nanoTime();
+        int arraysParallelSortTime = (int) (endTime - startTime);
+        System.out.println("Arrays.parallelSort (" + processors + " threads): " + arraysParallelSortTime + " ns");
+
+        return new int[]{arraysSortTime, arraysParallelSortTime};
+    }
+
+}
@@ -0,0 +1,18 @@
+import java.util.concurrent.ForkJoinPool;
+
+// Interface comum aos quatro algoritmos; quem decide como o trabalho é paralelizado é o SortBackend
+public interface Sorter {
+
+    String name();
+
+    // Ordena array[from..to) sem paralelismo (usado pelos backends de particionamento estático)
+    void sortSerial(int[] array, int from, int to);
+
+    // Ordena o array inteiro com as tarefas ForkJoin do próprio algoritmo, no pool informado
+    void sortParallel(int[] array, ForkJoinPool pool);
+
+    default void sort(int[] array, SortBackend backend, int processors) {
+        backend.sort(this, array, processors);
+    }
+
+}